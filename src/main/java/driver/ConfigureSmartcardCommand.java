@@ -50,13 +50,12 @@ public class ConfigureSmartcardCommand extends DataStructure {
 
     @Override
     public byte[] pack() {
-        ByteBuffer buffer = ByteBuffer.allocate(11);
+        ByteBuffer buffer = ByteBuffer.allocate(11).order(ByteOrder.LITTLE_ENDIAN);
         buffer.put(protocol);
         buffer.putInt(etu);
         buffer.putInt(freq);
         buffer.put(negotiatePts);
         buffer.put(negotiateBaudrate);
-        System.out.println(buffer);
         return buffer.array();
     }
 
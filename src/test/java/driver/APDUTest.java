@@ -0,0 +1,38 @@
+/**
+ * Code Copyright (c) 2024, Veronika Hanulikova <xhanulik@gmail.com>
+ * Python driver for the LEIA Smart Reader (https://github.com/cw-leia/smartleia) Copyright (c) 2019, The LEIA Team <leia@ssi.gouv.fr>
+ */
+
+package driver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class APDUTest {
+
+    @Test
+    void packWithData() {
+        APDU apdu = new APDU((byte) 0x00, (byte) 0xA4, (byte) 0x04, (byte) 0x00, new byte[]{0x01, 0x02, 0x03});
+        byte[] expected = {
+                0x00, (byte) 0xA4, 0x04, 0x00, // cla, ins, p1, p2
+                0x03, 0x00,                    // lc
+                0x00, 0x00, 0x00, 0x00,        // le
+                0x00,                          // sendLe
+                0x01, 0x02, 0x03               // data
+        };
+        assertArrayEquals(expected, apdu.pack());
+    }
+
+    @Test
+    void packWithoutData() {
+        APDU apdu = new APDU((byte) 0x80, (byte) 0xCA, (byte) 0x9F, (byte) 0x7F, null);
+        byte[] expected = {
+                (byte) 0x80, (byte) 0xCA, (byte) 0x9F, 0x7F,
+                0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00,
+                0x00
+        };
+        assertArrayEquals(expected, apdu.pack());
+    }
+}
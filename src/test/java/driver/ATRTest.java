@@ -0,0 +1,38 @@
+/**
+ * Code Copyright (c) 2024, Veronika Hanulikova <xhanulik@gmail.com>
+ * Python driver for the LEIA Smart Reader (https://github.com/cw-leia/smartleia) Copyright (c) 2019, The LEIA Team <leia@ssi.gouv.fr>
+ */
+
+package driver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ATRTest {
+
+    @Test
+    void unpackReadsLittleEndianLayout() {
+        byte[] wire = new byte[55];
+        wire[0] = 0x3B;  // ts
+        wire[1] = 0x13;  // t0
+        // ta, tb, tc, td (4 x 4), h (16), tMask (4) are left zeroed at offsets 2..37
+        wire[38] = 0x03; // hNum
+        wire[39] = 0x00; // tck
+        wire[40] = 0x00; // tckPresent
+        wire[41] = 0x01; // dICurr = 1
+        wire[45] = 0x74; // fICurr = 372
+        wire[46] = 0x01;
+        wire[49] = 0x00; // fMaxCurr = 4000000
+        wire[50] = 0x09;
+        wire[51] = 0x3D;
+        wire[52] = 0x00;
+        wire[53] = 0x01; // tProtocolCurr
+        wire[54] = 0x20; // ifsc
+
+        ATR atr = new ATR();
+        atr.unpack(wire);
+        assertEquals(4_000_000, atr.fMaxCurr);
+        assertEquals(1, atr.tProtocolCurr);
+    }
+}
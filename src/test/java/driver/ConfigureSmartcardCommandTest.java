@@ -0,0 +1,37 @@
+/**
+ * Code Copyright (c) 2024, Veronika Hanulikova <xhanulik@gmail.com>
+ * Python driver for the LEIA Smart Reader (https://github.com/cw-leia/smartleia) Copyright (c) 2019, The LEIA Team <leia@ssi.gouv.fr>
+ */
+
+package driver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class ConfigureSmartcardCommandTest {
+
+    @Test
+    void packIsLittleEndian() {
+        ConfigureSmartcardCommand command = new ConfigureSmartcardCommand(
+                ConfigureSmartcardCommand.T.T1.value(), 372, 4_000_000, true, false);
+        byte[] expected = {
+                0x02,                   // protocol
+                0x74, 0x01, 0x00, 0x00, // etu
+                0x00, 0x09, 0x3D, 0x00, // freq
+                0x01,                   // negotiatePts
+                0x00                    // negotiateBaudrate
+        };
+        assertArrayEquals(expected, command.pack());
+    }
+
+    @Test
+    void unpackThenPackRoundTrips() {
+        byte[] packed = new ConfigureSmartcardCommand(
+                ConfigureSmartcardCommand.T.T0.value(), 0x01020304, 0x0A0B0C0D, false, true).pack();
+        ConfigureSmartcardCommand command = new ConfigureSmartcardCommand(
+                ConfigureSmartcardCommand.T.T1.value(), 0, 0, false, false);
+        command.unpack(packed);
+        assertArrayEquals(packed, command.pack());
+    }
+}
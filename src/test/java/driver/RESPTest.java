@@ -0,0 +1,46 @@
+/**
+ * Code Copyright (c) 2024, Veronika Hanulikova <xhanulik@gmail.com>
+ * Python driver for the LEIA Smart Reader (https://github.com/cw-leia/smartleia) Copyright (c) 2019, The LEIA Team <leia@ssi.gouv.fr>
+ */
+
+package driver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class RESPTest {
+
+    private final byte[] wire = {
+            0x02, 0x01, 0x00, 0x00, // le
+            (byte) 0x90, 0x00,      // sw1, sw2
+            0x78, 0x56, 0x34, 0x12, // deltaT
+            0x0D, 0x0C, 0x0B, 0x0A, // deltaTAnswer
+            (byte) 0xAA, (byte) 0xBB // data
+    };
+
+    @Test
+    void unpackThenPackRoundTrips() {
+        RESP resp = new RESP();
+        resp.unpack(wire);
+        assertArrayEquals(wire, resp.pack());
+    }
+
+    @Test
+    void toArrayAppendsStatusWords() {
+        RESP resp = new RESP();
+        resp.unpack(wire);
+        assertArrayEquals(new byte[]{(byte) 0xAA, (byte) 0xBB, (byte) 0x90, 0x00}, resp.toArray());
+    }
+
+    @Test
+    void unpackWithoutData() {
+        byte[] header = Arrays.copyOf(wire, 14);
+        RESP resp = new RESP();
+        resp.unpack(header);
+        assertArrayEquals(header, resp.pack());
+        assertArrayEquals(new byte[]{(byte) 0x90, 0x00}, resp.toArray());
+    }
+}